@@ -0,0 +1,38 @@
+package com.banking.controller;
+
+import com.banking.dto.ActivitySummaryDto;
+import com.banking.model.SummaryPeriod;
+import com.banking.service.AccountAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+
+    private final AccountAnalyticsService accountAnalyticsService;
+
+    @GetMapping("/summary/{accountNumber}")
+    public ResponseEntity<List<ActivitySummaryDto>> getSummary(
+            @PathVariable String accountNumber,
+            @RequestParam(defaultValue = "DAY") SummaryPeriod period,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Authentication authentication) {
+        String username = authentication.getName();
+        return ResponseEntity.ok(accountAnalyticsService.getSummary(accountNumber, username, period, from, to));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Long> rebuild() {
+        return ResponseEntity.ok(accountAnalyticsService.rebuild());
+    }
+}
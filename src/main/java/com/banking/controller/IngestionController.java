@@ -0,0 +1,22 @@
+package com.banking.controller;
+
+import com.banking.dto.IngestionRequest;
+import com.banking.dto.IngestionResult;
+import com.banking.service.BulkIngestionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/ingestion")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class IngestionController {
+
+    private final BulkIngestionService bulkIngestionService;
+
+    @PostMapping("/files")
+    public ResponseEntity<IngestionResult> ingest(@RequestBody IngestionRequest request) {
+        return ResponseEntity.ok(bulkIngestionService.ingest(request));
+    }
+}
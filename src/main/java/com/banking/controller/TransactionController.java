@@ -1,7 +1,8 @@
 package com.banking.controller;
 
+import com.banking.dto.TransactionDto;
+import com.banking.dto.TransferReceipt;
 import com.banking.dto.TransferRequest;
-import com.banking.model.Transaction;
 import com.banking.service.TransactionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -19,14 +20,13 @@ public class TransactionController {
     private final TransactionService transactionService;
 
     @PostMapping("/transfer")
-    public ResponseEntity<String> transfer(@RequestBody TransferRequest request, Authentication authentication) {
+    public ResponseEntity<TransferReceipt> transfer(@RequestBody TransferRequest request, Authentication authentication) {
         String username = authentication.getName();
-        transactionService.transfer(request, username);
-        return ResponseEntity.ok("Transfer successful");
+        return ResponseEntity.ok(transactionService.transfer(request, username));
     }
 
     @GetMapping("/history/{accountNumber}")
-    public ResponseEntity<List<Transaction>> getHistory(@PathVariable String accountNumber, Authentication authentication) {
+    public ResponseEntity<List<TransactionDto>> getHistory(@PathVariable String accountNumber, Authentication authentication) {
         String username = authentication.getName();
         return ResponseEntity.ok(transactionService.getTransactionHistory(accountNumber, username));
     }
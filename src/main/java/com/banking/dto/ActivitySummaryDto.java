@@ -0,0 +1,16 @@
+package com.banking.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import java.time.LocalDate;
+
+@Data
+@Builder
+public class ActivitySummaryDto {
+    private LocalDate periodStart;
+    private String inflow;
+    private String outflow;
+    private long transactionCount;
+    private String minAmount;
+    private String maxAmount;
+}
@@ -0,0 +1,10 @@
+package com.banking.dto;
+
+import com.banking.model.FeedFormat;
+import lombok.Data;
+
+@Data
+public class IngestionRequest {
+    private String filePath;
+    private FeedFormat format;
+}
@@ -0,0 +1,17 @@
+package com.banking.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class IngestionResult {
+    private String fileName;
+    private long resumedFromOffset;
+    private long bytesProcessed;
+    private long rowsProcessed;
+    private long totalRows;
+    private long rowsRejected;
+    private long totalRejected;
+    private long elapsedMillis;
+}
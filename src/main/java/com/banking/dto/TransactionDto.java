@@ -0,0 +1,32 @@
+package com.banking.dto;
+
+import com.banking.model.Transaction;
+import com.banking.model.TransactionType;
+import com.banking.util.Money;
+import lombok.Builder;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class TransactionDto {
+    private Long id;
+    private TransactionType type;
+    private String amount;
+    private String sourceAccountNumber;
+    private String destinationAccountNumber;
+    private LocalDateTime timestamp;
+
+    public static TransactionDto from(Transaction transaction) {
+        return TransactionDto.builder()
+                .id(transaction.getId())
+                .type(transaction.getType())
+                .amount(Money.format(transaction.getAmount()))
+                .sourceAccountNumber(transaction.getSourceAccount() != null
+                        ? transaction.getSourceAccount().getAccountNumber() : null)
+                .destinationAccountNumber(transaction.getDestinationAccount() != null
+                        ? transaction.getDestinationAccount().getAccountNumber() : null)
+                .timestamp(transaction.getTimestamp())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.banking.dto;
+
+import com.banking.model.Transaction;
+import com.banking.util.Money;
+import lombok.Builder;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class TransferReceipt {
+    private Long transactionId;
+    private String sourceAccountNumber;
+    private String destinationAccountNumber;
+    private String amount;
+    private String newBalance;
+    private LocalDateTime timestamp;
+
+    /**
+     * Receipt for a saved transfer; {@code newBalance} is the source account's balance after the debit.
+     */
+    public static TransferReceipt from(Transaction transfer) {
+        return TransferReceipt.builder()
+                .transactionId(transfer.getId())
+                .sourceAccountNumber(transfer.getSourceAccount().getAccountNumber())
+                .destinationAccountNumber(transfer.getDestinationAccount().getAccountNumber())
+                .amount(Money.format(transfer.getAmount()))
+                .newBalance(Money.format(transfer.getSourceAccount().getBalance()))
+                .timestamp(transfer.getTimestamp())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.banking.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "account_daily_summaries",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"account_id", "bucket_date"}))
+public class AccountDailySummary {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", nullable = false)
+    private Account account;
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate day;
+
+    @Column(nullable = false)
+    private BigDecimal inflow;
+
+    @Column(nullable = false)
+    private BigDecimal outflow;
+
+    @Column(nullable = false)
+    private Long transactionCount;
+
+    @Column(nullable = false)
+    private BigDecimal minAmount;
+
+    @Column(nullable = false)
+    private BigDecimal maxAmount;
+}
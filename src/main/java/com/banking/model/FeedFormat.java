@@ -0,0 +1,8 @@
+package com.banking.model;
+
+public enum FeedFormat {
+    // accountNumber,DEPOSIT|WITHDRAWAL,amount
+    CSV,
+    // account number (10) | D or W (1) | amount, right aligned (15)
+    FIXED_WIDTH
+}
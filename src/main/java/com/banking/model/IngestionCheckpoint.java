@@ -0,0 +1,44 @@
+package com.banking.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "ingestion_checkpoints")
+public class IngestionCheckpoint {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(unique = true, nullable = false, updatable = false)
+    private String fileName;
+
+    @Column(nullable = false, updatable = false)
+    private Long fileSize;
+
+    @Column(nullable = false)
+    private Long byteOffset;
+
+    @Column(nullable = false)
+    private Long rowsProcessed;
+
+    @Column(nullable = false)
+    private Long rowsRejected;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    public void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,37 @@
+package com.banking.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "ingestion_rejects", indexes = @Index(name = "idx_ingestion_rejects_file", columnList = "file_name"))
+public class IngestionReject {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    @Column(nullable = false)
+    private Long byteOffset;
+
+    private String accountNumber;
+
+    @Column(length = 1024)
+    private String line;
+
+    @Column(nullable = false, length = 512)
+    private String reason;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,7 @@
+package com.banking.model;
+
+public enum SummaryPeriod {
+    DAY,
+    WEEK,
+    MONTH
+}
@@ -0,0 +1,13 @@
+package com.banking.repository;
+
+import com.banking.model.AccountDailySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface AccountDailySummaryRepository extends JpaRepository<AccountDailySummary, Long> {
+    List<AccountDailySummary> findByAccount_IdAndDayBetweenOrderByDayAsc(Long accountId, LocalDate from, LocalDate to);
+}
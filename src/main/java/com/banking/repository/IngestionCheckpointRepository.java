@@ -0,0 +1,17 @@
+package com.banking.repository;
+
+import com.banking.model.IngestionCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface IngestionCheckpointRepository extends JpaRepository<IngestionCheckpoint, Long> {
+    Optional<IngestionCheckpoint> findByFileName(String fileName);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<IngestionCheckpoint> findWithLockByFileName(String fileName);
+}
@@ -2,6 +2,8 @@ package com.banking.repository;
 
 import com.banking.model.Transaction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,5 +11,13 @@ import java.util.List;
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
     List<Transaction> findBySourceAccount_IdOrDestinationAccount_IdOrderByTimestampDesc(Long sourceId, Long destinationId);
-    List<Transaction> findBySourceAccount_AccountNumberOrDestinationAccount_AccountNumberOrderByTimestampDesc(String sourceAccount, String destinationAccount);
+
+    @Query("""
+            SELECT t FROM Transaction t
+            LEFT JOIN FETCH t.sourceAccount s
+            LEFT JOIN FETCH t.destinationAccount d
+            WHERE s.accountNumber = :accountNumber OR d.accountNumber = :accountNumber
+            ORDER BY t.timestamp DESC
+            """)
+    List<Transaction> findHistoryWithAccounts(@Param("accountNumber") String accountNumber);
 }
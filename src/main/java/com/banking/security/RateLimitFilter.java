@@ -0,0 +1,71 @@
+package com.banking.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_PATH = "/api/auth/login";
+    private static final String TRANSFER_PATH = "/api/transactions/transfer";
+
+    private final JwtUtil jwtUtil;
+    private final RateLimiter loginLimiter;
+    private final RateLimiter transferLimiter;
+
+    public RateLimitFilter(JwtUtil jwtUtil,
+                           @Value("${banking.rate-limit.max-keys:1000000}") int maxKeys,
+                           @Value("${banking.rate-limit.login.per-minute:20}") int loginPerMinute,
+                           @Value("${banking.rate-limit.login.burst:10}") int loginBurst,
+                           @Value("${banking.rate-limit.transfer.per-minute:120}") int transferPerMinute,
+                           @Value("${banking.rate-limit.transfer.burst:20}") int transferBurst) {
+        this.jwtUtil = jwtUtil;
+        this.loginLimiter = new RateLimiter(loginPerMinute, loginBurst, maxKeys);
+        this.transferLimiter = new RateLimiter(transferPerMinute, transferBurst, maxKeys);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        return !"POST".equals(request.getMethod()) || !(LOGIN_PATH.equals(path) || TRANSFER_PATH.equals(path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        long waitNanos = LOGIN_PATH.equals(request.getServletPath())
+                ? loginLimiter.tryAcquire("ip:" + request.getRemoteAddr())
+                : transferLimiter.tryAcquire(clientKey(request));
+
+        if (waitNanos > 0) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1));
+            response.getWriter().write("Too many requests");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String authorizationHeader = request.getHeader("Authorization");
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
+            try {
+                return "user:" + jwtUtil.extractUsername(authorizationHeader.substring(7));
+            } catch (Exception e) {
+                logger.debug("Rate limiting by address, token rejected: " + e.getMessage());
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
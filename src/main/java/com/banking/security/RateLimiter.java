@@ -0,0 +1,53 @@
+package com.banking.security;
+
+import com.banking.util.BoundedStateMap;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket kept as a single "theoretical arrival time" per key (GCRA).
+ * At capacity, fully refilled keys are dropped first and then arbitrary ones, which only resets their bucket.
+ */
+public class RateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final BoundedStateMap<AtomicLong> arrivals;
+
+    public RateLimiter(int requestsPerMinute, int burst, int maxKeys) {
+        this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / requestsPerMinute;
+        this.burstToleranceNanos = emissionIntervalNanos * burst;
+        this.arrivals = new BoundedStateMap<>(maxKeys, true, 0);
+    }
+
+    /**
+     * @return 0 when the request is permitted, otherwise the nanoseconds to wait before retrying
+     */
+    public long tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    long tryAcquire(String key, long now) {
+        AtomicLong arrival = arrivals.getOrCreate(key, k -> new AtomicLong(now), a -> a.get() - now <= 0, now);
+        if (arrival == null) {
+            return emissionIntervalNanos;
+        }
+
+        while (true) {
+            long current = arrival.get();
+            long next = (current - now > 0 ? current : now) + emissionIntervalNanos;
+            long wait = next - burstToleranceNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    int trackedKeys() {
+        return arrivals.size();
+    }
+}
@@ -0,0 +1,232 @@
+package com.banking.service;
+
+import com.banking.dto.ActivitySummaryDto;
+import com.banking.model.Account;
+import com.banking.model.AccountDailySummary;
+import com.banking.model.SummaryPeriod;
+import com.banking.model.Transaction;
+import com.banking.repository.AccountDailySummaryRepository;
+import com.banking.repository.AccountRepository;
+import com.banking.util.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+@Service
+@RequiredArgsConstructor
+public class AccountAnalyticsService {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO account_daily_summaries
+                (account_id, bucket_date, inflow, outflow, transaction_count, min_amount, max_amount)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (account_id, bucket_date) DO UPDATE SET
+                inflow = account_daily_summaries.inflow + EXCLUDED.inflow,
+                outflow = account_daily_summaries.outflow + EXCLUDED.outflow,
+                transaction_count = account_daily_summaries.transaction_count + EXCLUDED.transaction_count,
+                min_amount = LEAST(account_daily_summaries.min_amount, EXCLUDED.min_amount),
+                max_amount = GREATEST(account_daily_summaries.max_amount, EXCLUDED.max_amount)
+            """;
+
+    // Transfers and ingestion lock their account rows in id order before either upserts a summary, so
+    // holding the range's account rows keeps them out until the rebuilt buckets are committed.
+    private static final String LOCK_RANGE_SQL =
+            "SELECT id FROM accounts WHERE id BETWEEN ? AND ? ORDER BY id FOR UPDATE";
+
+    private static final int REBUILD_ATTEMPTS = 3;
+
+    private static final String DELETE_RANGE_SQL =
+            "DELETE FROM account_daily_summaries WHERE account_id BETWEEN ? AND ?";
+
+    private static final String REBUILD_RANGE_SQL = """
+            INSERT INTO account_daily_summaries
+                (account_id, bucket_date, inflow, outflow, transaction_count, min_amount, max_amount)
+            SELECT account_id, bucket_date, SUM(inflow), SUM(outflow), COUNT(*), MIN(amount), MAX(amount)
+            FROM (
+                SELECT destination_account_id AS account_id, CAST("timestamp" AS date) AS bucket_date,
+                       amount AS inflow, 0 AS outflow, amount
+                FROM transactions WHERE destination_account_id BETWEEN ? AND ?
+                UNION ALL
+                SELECT source_account_id, CAST("timestamp" AS date), 0, amount, amount
+                FROM transactions WHERE source_account_id BETWEEN ? AND ?
+            ) activity
+            GROUP BY account_id, bucket_date
+            """;
+
+    private final AccountRepository accountRepository;
+    private final AccountDailySummaryRepository summaryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${banking.analytics.rebuild-parallelism:4}")
+    private int rebuildParallelism;
+
+    @Value("${banking.analytics.rebuild-range-size:10000}")
+    private long rebuildRangeSize;
+
+    public void recordTransaction(Transaction transaction) {
+        LocalDate day = transaction.getTimestamp().toLocalDate();
+        List<DailyActivity> activity = new ArrayList<>(2);
+        if (transaction.getSourceAccount() != null) {
+            activity.add(DailyActivity.outflow(transaction.getSourceAccount().getId(), day, transaction.getAmount()));
+        }
+        if (transaction.getDestinationAccount() != null) {
+            activity.add(DailyActivity.inflow(transaction.getDestinationAccount().getId(), day, transaction.getAmount()));
+        }
+        record(activity);
+    }
+
+    void record(Collection<DailyActivity> activity) {
+        if (activity.isEmpty()) {
+            return;
+        }
+        List<DailyActivity> ordered = new ArrayList<>(activity);
+        ordered.sort(Comparator.comparing(DailyActivity::accountId).thenComparing(DailyActivity::day));
+        jdbcTemplate.batchUpdate(UPSERT_SQL, ordered, ordered.size(), (ps, a) -> {
+            ps.setLong(1, a.accountId());
+            ps.setDate(2, Date.valueOf(a.day()));
+            ps.setBigDecimal(3, a.inflow());
+            ps.setBigDecimal(4, a.outflow());
+            ps.setLong(5, a.count());
+            ps.setBigDecimal(6, a.minAmount());
+            ps.setBigDecimal(7, a.maxAmount());
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public List<ActivitySummaryDto> getSummary(String accountNumber, String username, SummaryPeriod period,
+                                               LocalDate from, LocalDate to) {
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new RuntimeException("Account not found"));
+
+        if (!account.getUser().getUsername().equals(username)) {
+            throw new RuntimeException("You do not own this account");
+        }
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusMonths(3);
+        if (start.isAfter(end)) {
+            throw new RuntimeException("Summary start date must not be after end date");
+        }
+
+        // Whole periods only, so the first and last buckets are never partial periods labeled as full ones.
+        return rollUp(summaryRepository.findByAccount_IdAndDayBetweenOrderByDayAsc(account.getId(),
+                periodStart(start, period), periodEnd(end, period)), period);
+    }
+
+    static List<ActivitySummaryDto> rollUp(List<AccountDailySummary> days, SummaryPeriod period) {
+        Map<LocalDate, AccountDailySummary> buckets = new TreeMap<>();
+        for (AccountDailySummary day : days) {
+            buckets.merge(periodStart(day.getDay(), period), day, AccountAnalyticsService::combine);
+        }
+        return buckets.entrySet().stream()
+                .map(bucket -> toDto(bucket.getKey(), bucket.getValue()))
+                .toList();
+    }
+
+    public long rebuild() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM accounts", Long.class);
+        if (maxId == null) {
+            return 0;
+        }
+        ForkJoinPool pool = new ForkJoinPool(rebuildParallelism);
+        try {
+            return pool.invoke(new RebuildTask(1, maxId));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static LocalDate periodStart(LocalDate day, SummaryPeriod period) {
+        return switch (period) {
+            case DAY -> day;
+            case WEEK -> day.with(DayOfWeek.MONDAY);
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    private static LocalDate periodEnd(LocalDate day, SummaryPeriod period) {
+        return switch (period) {
+            case DAY -> day;
+            case WEEK -> day.with(DayOfWeek.SUNDAY);
+            case MONTH -> day.with(TemporalAdjusters.lastDayOfMonth());
+        };
+    }
+
+    private static ActivitySummaryDto toDto(LocalDate periodStart, AccountDailySummary totals) {
+        return ActivitySummaryDto.builder()
+                .periodStart(periodStart)
+                .inflow(Money.format(totals.getInflow()))
+                .outflow(Money.format(totals.getOutflow()))
+                .transactionCount(totals.getTransactionCount())
+                .minAmount(Money.format(totals.getMinAmount()))
+                .maxAmount(Money.format(totals.getMaxAmount()))
+                .build();
+    }
+
+    private static AccountDailySummary combine(AccountDailySummary period, AccountDailySummary day) {
+        return AccountDailySummary.builder()
+                .inflow(period.getInflow().add(day.getInflow()))
+                .outflow(period.getOutflow().add(day.getOutflow()))
+                .transactionCount(period.getTransactionCount() + day.getTransactionCount())
+                .minAmount(period.getMinAmount().min(day.getMinAmount()))
+                .maxAmount(period.getMaxAmount().max(day.getMaxAmount()))
+                .build();
+    }
+
+    private class RebuildTask extends RecursiveTask<Long> {
+        private final long fromId;
+        private final long toId;
+
+        RebuildTask(long fromId, long toId) {
+            this.fromId = fromId;
+            this.toId = toId;
+        }
+
+        @Override
+        protected Long compute() {
+            if (toId - fromId < rebuildRangeSize) {
+                return rebuildRange();
+            }
+            long mid = fromId + (toId - fromId) / 2;
+            RebuildTask left = new RebuildTask(fromId, mid);
+            RebuildTask right = new RebuildTask(mid + 1, toId);
+            left.fork();
+            return right.compute() + left.join();
+        }
+
+        private long rebuildRange() {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    Integer rows = transactionTemplate.execute(status -> {
+                        jdbcTemplate.queryForList(LOCK_RANGE_SQL, Long.class, fromId, toId);
+                        jdbcTemplate.update(DELETE_RANGE_SQL, fromId, toId);
+                        return jdbcTemplate.update(REBUILD_RANGE_SQL, fromId, toId, fromId, toId);
+                    });
+                    return rows != null ? rows.longValue() : 0L;
+                } catch (PessimisticLockingFailureException e) {
+                    if (attempt == REBUILD_ATTEMPTS) {
+                        throw e;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.banking.service;
+
+import com.banking.dto.IngestionRequest;
+import com.banking.dto.IngestionResult;
+import com.banking.model.FeedFormat;
+import com.banking.model.IngestionCheckpoint;
+import com.banking.model.TransactionType;
+import com.banking.repository.IngestionCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class BulkIngestionService {
+
+    // Same id order as transfers and the analytics rebuild, so concurrent batches cannot deadlock on accounts
+    // that the planner would otherwise lock in arbitrary order.
+    private static final String LOCK_ACCOUNTS_SQL =
+            "SELECT id, account_number, balance FROM accounts WHERE account_number = ANY(?) ORDER BY id FOR UPDATE";
+
+    private static final String UPDATE_BALANCES_SQL = """
+            UPDATE accounts a SET balance = a.balance + d.delta
+            FROM unnest(?::varchar[], ?::numeric[]) AS d(account_number, delta)
+            WHERE a.account_number = d.account_number
+            """;
+
+    private static final String INSERT_TRANSACTION_SQL = """
+            INSERT INTO transactions (amount, type, source_account_id, destination_account_id, timestamp)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_REJECT_SQL = """
+            INSERT INTO ingestion_rejects (file_name, byte_offset, account_number, line, reason, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final IngestionCheckpointRepository checkpointRepository;
+    private final AccountAnalyticsService accountAnalyticsService;
+
+    @Value("${banking.ingestion.inbox-dir:/var/lib/banking/inbox}")
+    private String inboxDir;
+
+    @Value("${banking.ingestion.batch-bytes:8388608}")
+    private int batchBytes;
+
+    @Value("${banking.ingestion.insert-batch-size:5000}")
+    private int insertBatchSize;
+
+    public IngestionResult ingest(IngestionRequest request) {
+        Path path = resolveInInbox(Path.of(inboxDir), request.getFilePath());
+        FeedFormat format = request.getFormat() != null ? request.getFormat() : FeedFormat.CSV;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            IngestionCheckpoint checkpoint = checkpointRepository.findByFileName(path.toString())
+                    .orElseGet(() -> IngestionCheckpoint.builder()
+                            .fileName(path.toString())
+                            .fileSize(size)
+                            .byteOffset(0L)
+                            .rowsProcessed(0L)
+                            .rowsRejected(0L)
+                            .build());
+
+            if (checkpoint.getFileSize() != size) {
+                throw new RuntimeException("File has changed since its last checkpoint: " + path);
+            }
+
+            long resumedFrom = checkpoint.getByteOffset();
+            long resumedRows = checkpoint.getRowsProcessed();
+            long resumedRejects = checkpoint.getRowsRejected();
+            long started = System.nanoTime();
+
+            while (checkpoint.getByteOffset() < size) {
+                long offset = checkpoint.getByteOffset();
+                ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(batchBytes, size - offset));
+                int length = region.limit();
+                if (offset + length < size) {
+                    length = FeedParser.lastLineEnd(region);
+                    if (length == 0) {
+                        throw new RuntimeException("Line at offset " + offset + " exceeds the ingestion batch size");
+                    }
+                }
+
+                FeedBatch batch = FeedParser.parse(region, length, format, offset);
+                long nextOffset = offset + length;
+                IngestionCheckpoint current = checkpoint;
+                checkpoint = transactionTemplate.execute(status -> applyBatch(batch, current, nextOffset));
+            }
+
+            return IngestionResult.builder()
+                    .fileName(path.toString())
+                    .resumedFromOffset(resumedFrom)
+                    .bytesProcessed(size - resumedFrom)
+                    .rowsProcessed(checkpoint.getRowsProcessed() - resumedRows)
+                    .totalRows(checkpoint.getRowsProcessed())
+                    .rowsRejected(checkpoint.getRowsRejected() - resumedRejects)
+                    .totalRejected(checkpoint.getRowsRejected())
+                    .elapsedMillis((System.nanoTime() - started) / 1_000_000)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read ingestion file: " + path, e);
+        }
+    }
+
+    private IngestionCheckpoint applyBatch(FeedBatch batch, IngestionCheckpoint checkpoint, long nextOffset) {
+        IngestionCheckpoint locked = lockCheckpoint(checkpoint);
+
+        LocalDateTime timestamp = LocalDateTime.now();
+        Timestamp now = Timestamp.valueOf(timestamp);
+        List<FeedReject> rejects = new ArrayList<>(batch.rejects());
+        List<FeedEntry> accepted = batch.entries();
+
+        if (!accepted.isEmpty()) {
+            Map<String, String> rejectedAccounts = new HashMap<>();
+            Map<String, Long> accountIds = applyDeltas(netDeltas(accepted), rejectedAccounts);
+            if (!rejectedAccounts.isEmpty()) {
+                accepted = new ArrayList<>(batch.entries().size());
+                for (FeedEntry entry : batch.entries()) {
+                    String reason = rejectedAccounts.get(entry.accountNumber());
+                    if (reason == null) {
+                        accepted.add(entry);
+                    } else {
+                        rejects.add(FeedReject.of(entry, reason));
+                    }
+                }
+            }
+
+            jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, accepted, insertBatchSize, (ps, entry) -> {
+                Long accountId = accountIds.get(entry.accountNumber());
+                ps.setBigDecimal(1, entry.amount());
+                ps.setString(2, entry.type().name());
+                if (entry.type() == TransactionType.WITHDRAWAL) {
+                    ps.setLong(3, accountId);
+                    ps.setNull(4, Types.BIGINT);
+                } else {
+                    ps.setNull(3, Types.BIGINT);
+                    ps.setLong(4, accountId);
+                }
+                ps.setTimestamp(5, now);
+            });
+
+            LocalDate day = timestamp.toLocalDate();
+            Map<Long, DailyActivity> activity = new HashMap<>(accountIds.size() * 2);
+            for (FeedEntry entry : accepted) {
+                Long accountId = accountIds.get(entry.accountNumber());
+                DailyActivity single = entry.type() == TransactionType.DEPOSIT
+                        ? DailyActivity.inflow(accountId, day, entry.amount())
+                        : DailyActivity.outflow(accountId, day, entry.amount());
+                activity.merge(accountId, single, DailyActivity::merge);
+            }
+            accountAnalyticsService.record(activity.values());
+        }
+
+        // Rejected rows are recorded with the checkpoint so that a bad line never stalls the rest of the file.
+        jdbcTemplate.batchUpdate(INSERT_REJECT_SQL, rejects, insertBatchSize, (ps, reject) -> {
+            ps.setString(1, locked.getFileName());
+            ps.setLong(2, reject.offset());
+            ps.setString(3, reject.accountNumber());
+            ps.setString(4, reject.line());
+            ps.setString(5, reject.reason());
+            ps.setTimestamp(6, now);
+        });
+
+        locked.setByteOffset(nextOffset);
+        locked.setRowsProcessed(locked.getRowsProcessed() + accepted.size());
+        locked.setRowsRejected(locked.getRowsRejected() + rejects.size());
+        return checkpointRepository.save(locked);
+    }
+
+    private IngestionCheckpoint lockCheckpoint(IngestionCheckpoint expected) {
+        IngestionCheckpoint locked = checkpointRepository.findWithLockByFileName(expected.getFileName()).orElse(null);
+        if (locked == null) {
+            if (expected.getId() != null) {
+                throw new RuntimeException("Checkpoint for " + expected.getFileName() + " was removed during ingestion");
+            }
+            // First batch of a new file: the unique file name rejects a concurrent first batch.
+            return checkpointRepository.saveAndFlush(expected);
+        }
+        if (!locked.getByteOffset().equals(expected.getByteOffset())) {
+            throw new RuntimeException("Checkpoint for " + expected.getFileName() + " is at offset " + locked.getByteOffset()
+                    + " but this batch was read from offset " + expected.getByteOffset()
+                    + "; the file is being ingested concurrently");
+        }
+        return locked;
+    }
+
+    /**
+     * Resolves a feed path against the inbox. Relative paths are taken from the inbox, and any path that
+     * leaves it, including through a symbolic link, is refused.
+     */
+    static Path resolveInInbox(Path inbox, String filePath) {
+        if (filePath == null || filePath.isBlank()) {
+            throw new RuntimeException("Feed file path is required");
+        }
+        Path root = inbox.toAbsolutePath().normalize();
+        Path path = root.resolve(filePath).normalize();
+        try {
+            if (!path.startsWith(root) || !path.toRealPath().startsWith(root.toRealPath())) {
+                throw new RuntimeException("Feed files must be inside the ingestion inbox");
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Feed file not found in the ingestion inbox: " + root.relativize(path));
+        }
+        return path;
+    }
+
+    static Map<String, BigDecimal> netDeltas(List<FeedEntry> entries) {
+        Map<String, BigDecimal> deltas = new HashMap<>();
+        for (FeedEntry entry : entries) {
+            BigDecimal delta = entry.type() == TransactionType.DEPOSIT ? entry.amount() : entry.amount().negate();
+            deltas.merge(entry.accountNumber(), delta, BigDecimal::add);
+        }
+        return deltas;
+    }
+
+    /**
+     * Locks the batch's accounts and applies their net deltas, except for unknown accounts and accounts the
+     * batch would overdraw, which are added to {@code rejectedAccounts} with the reason.
+     *
+     * @return ids of the accounts whose deltas were applied, by account number
+     */
+    private Map<String, Long> applyDeltas(Map<String, BigDecimal> deltas, Map<String, String> rejectedAccounts) {
+        String[] lockedNumbers = deltas.keySet().toArray(String[]::new);
+        Map<String, Long> accountIds = new HashMap<>(deltas.size() * 2);
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(LOCK_ACCOUNTS_SQL);
+            ps.setArray(1, con.createArrayOf("varchar", lockedNumbers));
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            String accountNumber = rs.getString(2);
+            if (rs.getBigDecimal(3).add(deltas.get(accountNumber)).signum() < 0) {
+                rejectedAccounts.put(accountNumber, "Insufficient balance");
+            } else {
+                accountIds.put(accountNumber, rs.getLong(1));
+            }
+        });
+        for (String accountNumber : lockedNumbers) {
+            if (!accountIds.containsKey(accountNumber)) {
+                rejectedAccounts.putIfAbsent(accountNumber, "Account not found");
+            }
+        }
+        if (accountIds.isEmpty()) {
+            return accountIds;
+        }
+
+        String[] accountNumbers = new String[accountIds.size()];
+        BigDecimal[] amounts = new BigDecimal[accountIds.size()];
+        int i = 0;
+        for (String accountNumber : accountIds.keySet()) {
+            accountNumbers[i] = accountNumber;
+            amounts[i++] = deltas.get(accountNumber);
+        }
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(UPDATE_BALANCES_SQL);
+            ps.setArray(1, con.createArrayOf("varchar", accountNumbers));
+            ps.setArray(2, con.createArrayOf("numeric", amounts));
+            return ps;
+        });
+        return accountIds;
+    }
+}
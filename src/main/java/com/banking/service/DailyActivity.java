@@ -0,0 +1,25 @@
+package com.banking.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+record DailyActivity(Long accountId, LocalDate day, BigDecimal inflow, BigDecimal outflow,
+                     long count, BigDecimal minAmount, BigDecimal maxAmount) {
+
+    static DailyActivity inflow(Long accountId, LocalDate day, BigDecimal amount) {
+        return new DailyActivity(accountId, day, amount, BigDecimal.ZERO, 1, amount, amount);
+    }
+
+    static DailyActivity outflow(Long accountId, LocalDate day, BigDecimal amount) {
+        return new DailyActivity(accountId, day, BigDecimal.ZERO, amount, 1, amount, amount);
+    }
+
+    DailyActivity merge(DailyActivity other) {
+        return new DailyActivity(accountId, day,
+                inflow.add(other.inflow),
+                outflow.add(other.outflow),
+                count + other.count,
+                minAmount.min(other.minAmount),
+                maxAmount.max(other.maxAmount));
+    }
+}
@@ -0,0 +1,20 @@
+package com.banking.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+record FeedBatch(List<FeedEntry> entries, List<FeedReject> rejects) {
+
+    static FeedBatch concat(List<FeedBatch> batches) {
+        if (batches.size() == 1) {
+            return batches.get(0);
+        }
+        List<FeedEntry> entries = new ArrayList<>(batches.stream().mapToInt(b -> b.entries().size()).sum());
+        List<FeedReject> rejects = new ArrayList<>();
+        for (FeedBatch batch : batches) {
+            entries.addAll(batch.entries());
+            rejects.addAll(batch.rejects());
+        }
+        return new FeedBatch(entries, rejects);
+    }
+}
@@ -0,0 +1,8 @@
+package com.banking.service;
+
+import com.banking.model.TransactionType;
+
+import java.math.BigDecimal;
+
+record FeedEntry(long offset, String accountNumber, TransactionType type, BigDecimal amount) {
+}
@@ -0,0 +1,130 @@
+package com.banking.service;
+
+import com.banking.model.FeedFormat;
+import com.banking.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+final class FeedParser {
+
+    private static final int MIN_CHUNK_BYTES = 256 * 1024;
+
+    private FeedParser() {
+    }
+
+    static FeedBatch parse(ByteBuffer region, int length, FeedFormat format, long baseOffset) {
+        int parts = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism(), length / MIN_CHUNK_BYTES));
+        return parse(region, length, format, baseOffset, parts);
+    }
+
+    static FeedBatch parse(ByteBuffer region, int length, FeedFormat format, long baseOffset, int parts) {
+        List<int[]> chunks = new ArrayList<>(parts);
+        int from = 0;
+        for (int i = 1; i <= parts && from < length; i++) {
+            int to = i == parts ? length : nextLineStart(region, (int) ((long) length * i / parts), length);
+            if (to > from) {
+                chunks.add(new int[]{from, to});
+                from = to;
+            }
+        }
+
+        if (chunks.isEmpty()) {
+            return new FeedBatch(List.of(), List.of());
+        }
+        return FeedBatch.concat(chunks.parallelStream()
+                .map(chunk -> parseChunk(region.slice(chunk[0], chunk[1] - chunk[0]), format, baseOffset + chunk[0]))
+                .toList());
+    }
+
+    private static FeedBatch parseChunk(ByteBuffer chunk, FeedFormat format, long baseOffset) {
+        List<FeedEntry> entries = new ArrayList<>(chunk.limit() / 32);
+        List<FeedReject> rejects = new ArrayList<>();
+        byte[] line = new byte[256];
+        int start = 0;
+        int limit = chunk.limit();
+        while (start < limit) {
+            int end = start;
+            while (end < limit && chunk.get(end) != '\n') {
+                end++;
+            }
+            int lineEnd = end > start && chunk.get(end - 1) == '\r' ? end - 1 : end;
+            int lineLength = lineEnd - start;
+            if (lineLength > 0 && chunk.get(start) != '#') {
+                if (lineLength > line.length) {
+                    line = new byte[lineLength];
+                }
+                chunk.get(start, line, 0, lineLength);
+                String text = new String(line, 0, lineLength, StandardCharsets.US_ASCII);
+                long offset = baseOffset + start;
+                try {
+                    entries.add(format == FeedFormat.CSV ? parseCsv(offset, text) : parseFixedWidth(offset, text));
+                } catch (RuntimeException e) {
+                    rejects.add(FeedReject.unparseable(offset, text,
+                            e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName()));
+                }
+            }
+            start = end + 1;
+        }
+        return new FeedBatch(entries, rejects);
+    }
+
+    private static FeedEntry parseCsv(long offset, String line) {
+        int first = line.indexOf(',');
+        int second = line.indexOf(',', first + 1);
+        if (first < 0 || second < 0) {
+            throw new IllegalArgumentException("Expected accountNumber,type,amount");
+        }
+        TransactionType type = TransactionType.valueOf(line.substring(first + 1, second).trim());
+        return entry(offset, line.substring(0, first).trim(), type, line.substring(second + 1).trim());
+    }
+
+    private static FeedEntry parseFixedWidth(long offset, String line) {
+        if (line.length() < 12) {
+            throw new IllegalArgumentException("Line too short for fixed-width layout");
+        }
+        TransactionType type = switch (line.charAt(10)) {
+            case 'D' -> TransactionType.DEPOSIT;
+            case 'W' -> TransactionType.WITHDRAWAL;
+            default -> throw new IllegalArgumentException("Unknown type code: " + line.charAt(10));
+        };
+        return entry(offset, line.substring(0, 10).trim(), type, line.substring(11).trim());
+    }
+
+    private static FeedEntry entry(long offset, String accountNumber, TransactionType type, String amount) {
+        if (type == TransactionType.TRANSFER) {
+            throw new IllegalArgumentException("Transfers cannot be ingested from feeds");
+        }
+        BigDecimal value = new BigDecimal(amount);
+        if (value.signum() <= 0) {
+            throw new IllegalArgumentException("Amount must be positive");
+        }
+        // Amount columns are numeric(38,2); finer amounts would round per row but not in the net balance delta.
+        if (value.stripTrailingZeros().scale() > 2) {
+            throw new IllegalArgumentException("Amount has more than two decimal places");
+        }
+        return new FeedEntry(offset, accountNumber, type, value);
+    }
+
+    static int lastLineEnd(ByteBuffer region) {
+        for (int i = region.limit() - 1; i >= 0; i--) {
+            if (region.get(i) == '\n') {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    private static int nextLineStart(ByteBuffer region, int from, int length) {
+        for (int i = from; i < length; i++) {
+            if (region.get(i) == '\n') {
+                return i + 1;
+            }
+        }
+        return length;
+    }
+}
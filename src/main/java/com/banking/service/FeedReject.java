@@ -0,0 +1,18 @@
+package com.banking.service;
+
+/**
+ * A feed line that was skipped, by file offset. {@code line} is only kept for lines that failed to parse.
+ */
+record FeedReject(long offset, String accountNumber, String line, String reason) {
+
+    private static final int MAX_LINE_LENGTH = 1024;
+
+    static FeedReject unparseable(long offset, String line, String reason) {
+        return new FeedReject(offset, null,
+                line.length() > MAX_LINE_LENGTH ? line.substring(0, MAX_LINE_LENGTH) : line, reason);
+    }
+
+    static FeedReject of(FeedEntry entry, String reason) {
+        return new FeedReject(entry.offset(), entry.accountNumber(), null, reason);
+    }
+}
@@ -1,5 +1,7 @@
 package com.banking.service;
 
+import com.banking.dto.TransactionDto;
+import com.banking.dto.TransferReceipt;
 import com.banking.dto.TransferRequest;
 import com.banking.model.Account;
 import com.banking.model.Transaction;
@@ -12,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -19,14 +22,22 @@ public class TransactionService {
 
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
+    private final AccountAnalyticsService accountAnalyticsService;
+    private final TransferVelocityChecker transferVelocityChecker;
 
     @Transactional
-    public void transfer(TransferRequest request, String username) {
+    public TransferReceipt transfer(TransferRequest request, String username) {
         if (request.getAmount().signum() <= 0) {
             throw new RuntimeException("Transfer amount must be positive");
         }
+        transferVelocityChecker.validateAmount(request.getAmount());
 
-        Account source = accountRepository.findByAccountNumber(request.getSourceAccountNumber())
+        // Lock both rows up front: feed ingestion updates balances concurrently, and an unlocked read here
+        // would write back a stale balance.
+        List<Account> accounts = accountRepository.findAllWithLockByAccountNumberIn(
+                List.of(request.getSourceAccountNumber(), request.getDestinationAccountNumber()));
+
+        Account source = findAccount(accounts, request.getSourceAccountNumber())
                 .orElseThrow(() -> new RuntimeException("Source account not found"));
 
         // Validate ownership
@@ -34,13 +45,15 @@ public class TransactionService {
             throw new RuntimeException("You do not own the source account");
         }
 
-        Account destination = accountRepository.findByAccountNumber(request.getDestinationAccountNumber())
+        Account destination = findAccount(accounts, request.getDestinationAccountNumber())
                 .orElseThrow(() -> new RuntimeException("Destination account not found"));
 
         if (source.getBalance().compareTo(request.getAmount()) < 0) {
             throw new RuntimeException("Insufficient balance");
         }
 
+        transferVelocityChecker.check(source.getAccountNumber(), request.getAmount());
+
         source.setBalance(source.getBalance().subtract(request.getAmount()));
         destination.setBalance(destination.getBalance().add(request.getAmount()));
 
@@ -56,10 +69,13 @@ public class TransactionService {
                 .build();
 
         transactionRepository.save(transaction);
+        accountAnalyticsService.recordTransaction(transaction);
+
+        return TransferReceipt.from(transaction);
     }
 
     @Transactional(readOnly = true)
-    public List<Transaction> getTransactionHistory(String accountNumber, String username) {
+    public List<TransactionDto> getTransactionHistory(String accountNumber, String username) {
         Account account = accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new RuntimeException("Account not found"));
                 
@@ -67,8 +83,14 @@ public class TransactionService {
             throw new RuntimeException("You do not own this account");
         }
 
-        return transactionRepository.findBySourceAccount_AccountNumberOrDestinationAccount_AccountNumberOrderByTimestampDesc(
-                accountNumber, accountNumber
-        );
+        return transactionRepository.findHistoryWithAccounts(accountNumber).stream()
+                .map(TransactionDto::from)
+                .toList();
+    }
+
+    private static Optional<Account> findAccount(List<Account> accounts, String accountNumber) {
+        return accounts.stream()
+                .filter(account -> account.getAccountNumber().equals(accountNumber))
+                .findFirst();
     }
 }
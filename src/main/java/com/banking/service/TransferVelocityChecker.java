@@ -0,0 +1,145 @@
+package com.banking.service;
+
+import com.banking.exception.RateLimitExceededException;
+import com.banking.util.BoundedStateMap;
+import com.banking.util.Money;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory sliding-window limits on how much, and how often, a source account can send.
+ * Each window is split into a small ring of slots so the state per account stays a few fixed-size arrays.
+ */
+@Component
+public class TransferVelocityChecker {
+
+    private static final int SLOTS = 12;
+
+    private final long slotMillis;
+    private final int maxCount;
+    private final BigDecimal maxAmount;
+    private final long maxAmountMinor;
+    private final BoundedStateMap<Window> windows;
+
+    public TransferVelocityChecker(@Value("${banking.velocity.window-seconds:3600}") long windowSeconds,
+                                   @Value("${banking.velocity.max-count:50}") int maxCount,
+                                   @Value("${banking.velocity.max-amount:50000}") BigDecimal maxAmount,
+                                   @Value("${banking.velocity.max-keys:1000000}") int maxKeys) {
+        this.slotMillis = Math.max(1, TimeUnit.SECONDS.toMillis(windowSeconds) / SLOTS);
+        this.maxCount = maxCount;
+        this.maxAmount = maxAmount;
+        this.maxAmountMinor = toMinorUnits(maxAmount);
+        this.windows = new BoundedStateMap<>(maxKeys, false, slotMillis);
+    }
+
+    /**
+     * Reserves the transfer in the source account's window, or throws when it would exceed a limit.
+     * Inside a transaction the reservation is given back unless that transaction commits.
+     */
+    public void check(String sourceAccountNumber, BigDecimal amount) {
+        Runnable release = check(sourceAccountNumber, amount, System.currentTimeMillis());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        release.run();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Rejects a single transfer larger than the whole window's amount limit. Waiting would never let it through,
+     * so this is a plain validation error rather than a rate limit with a Retry-After.
+     */
+    public void validateAmount(BigDecimal amount) {
+        if (toMinorUnits(amount) > maxAmountMinor) {
+            throw new RuntimeException("Transfer amount exceeds the limit of " + Money.format(maxAmount));
+        }
+    }
+
+    Runnable check(String sourceAccountNumber, BigDecimal amount, long now) {
+        validateAmount(amount);
+        long slot = now / slotMillis;
+        long amountMinor = toMinorUnits(amount);
+
+        Window window = windows.getOrCreate(sourceAccountNumber, k -> new Window(), w -> w.isIdle(slot), now);
+        if (window == null) {
+            throw new RateLimitExceededException("Transfer velocity tracking is at capacity",
+                    TimeUnit.MILLISECONDS.toSeconds(slotMillis) + 1);
+        }
+
+        long oldestSlot = window.tryRecord(slot, amountMinor, maxCount, maxAmountMinor);
+        if (oldestSlot >= 0) {
+            long retryAfterMillis = (oldestSlot + SLOTS) * slotMillis - now;
+            throw new RateLimitExceededException("Transfer velocity limit exceeded for account " + sourceAccountNumber,
+                    TimeUnit.MILLISECONDS.toSeconds(retryAfterMillis) + 1);
+        }
+        return () -> window.release(slot, amountMinor);
+    }
+
+    int trackedAccounts() {
+        return windows.size();
+    }
+
+    private static long toMinorUnits(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.CEILING).longValueExact();
+    }
+
+    private static final class Window {
+        private final long[] slots = new long[SLOTS];
+        private final int[] counts = new int[SLOTS];
+        private final long[] amounts = new long[SLOTS];
+        private long lastSlot = -1;
+
+        /**
+         * @return -1 when recorded, otherwise the oldest live slot whose expiry frees capacity
+         */
+        synchronized long tryRecord(long slot, long amount, int maxCount, long maxAmount) {
+            int count = 1;
+            long total = amount;
+            long oldest = slot;
+            for (int i = 0; i < SLOTS; i++) {
+                if (counts[i] > 0 && slot - slots[i] < SLOTS) {
+                    count += counts[i];
+                    total += amounts[i];
+                    oldest = Math.min(oldest, slots[i]);
+                }
+            }
+            if (count > maxCount || total > maxAmount) {
+                return oldest;
+            }
+
+            int index = (int) (slot % SLOTS);
+            if (slots[index] != slot) {
+                slots[index] = slot;
+                counts[index] = 0;
+                amounts[index] = 0;
+            }
+            counts[index]++;
+            amounts[index] += amount;
+            lastSlot = slot;
+            return -1;
+        }
+
+        synchronized void release(long slot, long amount) {
+            int index = (int) (slot % SLOTS);
+            if (slots[index] == slot && counts[index] > 0) {
+                counts[index]--;
+                amounts[index] -= amount;
+            }
+        }
+
+        synchronized boolean isIdle(long slot) {
+            return slot - lastSlot >= SLOTS;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.banking.util;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Concurrent per-key state capped at {@code maxKeys} (plus at most one entry per concurrent caller).
+ * When full, one caller sweeps idle entries, and live ones too if {@code evictLive}, down to a 90% low-water mark,
+ * so the O(n) sweep is paid once per tenth of the capacity admitted. A sweep that cannot reach the low-water mark
+ * is not repeated until {@code sweepBackoff} has passed; meanwhile new keys are refused.
+ */
+public class BoundedStateMap<V> {
+
+    private final ConcurrentHashMap<String, V> entries;
+    private final int maxKeys;
+    private final int lowWaterMark;
+    private final boolean evictLive;
+    private final long sweepBackoff;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private volatile long nextSweepAt = Long.MIN_VALUE;
+
+    public BoundedStateMap(int maxKeys, boolean evictLive, long sweepBackoff) {
+        this.entries = new ConcurrentHashMap<>(Math.min(maxKeys, 1 << 16));
+        this.maxKeys = maxKeys;
+        this.lowWaterMark = maxKeys - Math.max(1, maxKeys / 10);
+        this.evictLive = evictLive;
+        this.sweepBackoff = sweepBackoff;
+    }
+
+    /**
+     * @param now caller clock reading, in the same unit as {@code sweepBackoff}
+     * @return the state for {@code key}, or {@code null} when the map is full and the key cannot be admitted
+     */
+    public V getOrCreate(String key, Function<String, V> factory, Predicate<V> idle, long now) {
+        V state = entries.get(key);
+        if (state != null) {
+            return state;
+        }
+        if (entries.size() >= maxKeys) {
+            sweep(idle, now);
+            if (entries.size() >= maxKeys) {
+                return null;
+            }
+        }
+        return entries.computeIfAbsent(key, factory);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void sweep(Predicate<V> idle, long now) {
+        if (now < nextSweepAt || !sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            entries.values().removeIf(idle);
+            int excess = entries.size() - lowWaterMark;
+            if (evictLive) {
+                Iterator<V> it = entries.values().iterator();
+                while (excess > 0 && it.hasNext()) {
+                    it.next();
+                    it.remove();
+                    excess--;
+                }
+            }
+            nextSweepAt = excess > 0 ? now + sweepBackoff : Long.MIN_VALUE;
+        } finally {
+            sweeping.set(false);
+        }
+    }
+}
@@ -221,13 +221,13 @@ async function loadHistory() {
             const date = new Date(tx.timestamp).toLocaleString(undefined, {
                 month: 'short', day: 'numeric', hour: '2-digit', minute:'2-digit'
             });
-            const isSend = tx.sourceAccount && tx.sourceAccount.accountNumber === accountNum;
+            const isSend = tx.sourceAccountNumber === accountNum;
             const amtClass = isSend ? 'amt-negative' : 'amt-positive';
             const sign = isSend ? '-' : '+';
             return `
                 <tr>
                     <td>${date}</td>
-                    <td class="type-transfer">${tx.transactionType}</td>
+                    <td class="type-transfer">${tx.type}</td>
                     <td class="${amtClass}">${sign}$${parseFloat(tx.amount).toFixed(2)}</td>
                 </tr>
             `;
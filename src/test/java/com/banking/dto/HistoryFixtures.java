@@ -0,0 +1,52 @@
+package com.banking.dto;
+
+import com.banking.model.Account;
+import com.banking.model.Role;
+import com.banking.model.Transaction;
+import com.banking.model.TransactionType;
+import com.banking.model.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class HistoryFixtures {
+
+    private HistoryFixtures() {
+    }
+
+    static List<Transaction> entities(int count) {
+        Account source = account(1L, "SRC0000001", "alice");
+        Account destination = account(2L, "DST0000002", "bob");
+        LocalDateTime start = LocalDateTime.of(2024, 5, 1, 9, 30);
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            transactions.add(Transaction.builder()
+                    .id((long) i + 1)
+                    .amount(new BigDecimal(i + 1).movePointLeft(2).add(BigDecimal.TEN))
+                    .type(TransactionType.TRANSFER)
+                    .sourceAccount(i % 2 == 0 ? source : destination)
+                    .destinationAccount(i % 2 == 0 ? destination : source)
+                    .timestamp(start.plusMinutes(i))
+                    .build());
+        }
+        return transactions;
+    }
+
+    static Account account(Long id, String accountNumber, String username) {
+        User user = User.builder()
+                .id(id)
+                .username(username)
+                .email(username + "@example.com")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3ZbOrW6nHvj1k7iBSMQ0yUy")
+                .role(Role.USER)
+                .build();
+        return Account.builder()
+                .id(id)
+                .accountNumber(accountNumber)
+                .balance(new BigDecimal("1000.00"))
+                .user(user)
+                .build();
+    }
+}
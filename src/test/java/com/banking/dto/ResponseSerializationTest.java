@@ -0,0 +1,94 @@
+package com.banking.dto;
+
+import com.banking.config.JacksonConfig;
+import com.banking.model.Transaction;
+import com.banking.model.TransactionType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Serializes API responses with the ObjectMapper that Spring Boot builds, including the {@link JacksonConfig} modules.
+ */
+@JsonTest
+@Import(JacksonConfig.class)
+class ResponseSerializationTest {
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Test
+    void blackbirdModuleReachesTheBootMapper() {
+        assertTrue(mapper.getRegisteredModuleIds().contains(new JacksonConfig().blackbirdModule().getTypeId()),
+                "registered modules: " + mapper.getRegisteredModuleIds());
+    }
+
+    @Test
+    void historyRowsAreFlatWithStringMoneyAndIsoTimestamps() throws JsonProcessingException {
+        TransactionDto dto = TransactionDto.from(HistoryFixtures.entities(1).get(0));
+
+        JsonNode json = mapper.readTree(mapper.writeValueAsString(dto));
+
+        assertEquals(6, json.size());
+        assertEquals(1, json.get("id").asLong());
+        assertEquals("TRANSFER", json.get("type").asText());
+        assertTrue(json.get("amount").isTextual());
+        assertEquals("10.01", json.get("amount").asText());
+        assertEquals("SRC0000001", json.get("sourceAccountNumber").asText());
+        assertEquals("DST0000002", json.get("destinationAccountNumber").asText());
+        assertEquals("2024-05-01T09:30:00", json.get("timestamp").asText());
+    }
+
+    @Test
+    void depositsKeepANullSourceAccountKey() throws JsonProcessingException {
+        Transaction deposit = Transaction.builder()
+                .id(7L)
+                .type(TransactionType.DEPOSIT)
+                .amount(new BigDecimal("5"))
+                .destinationAccount(HistoryFixtures.account(2L, "DST0000002", "bob"))
+                .timestamp(LocalDateTime.of(2024, 5, 1, 0, 0))
+                .build();
+
+        JsonNode json = mapper.readTree(mapper.writeValueAsString(TransactionDto.from(deposit)));
+
+        assertTrue(json.has("sourceAccountNumber"));
+        assertTrue(json.get("sourceAccountNumber").isNull());
+        assertEquals("5.00", json.get("amount").asText());
+    }
+
+    @Test
+    void historyNoLongerLeaksUsersOrPasswordHashes() throws JsonProcessingException {
+        List<Transaction> entities = HistoryFixtures.entities(10);
+
+        String entityJson = mapper.writeValueAsString(entities);
+        String dtoJson = mapper.writeValueAsString(entities.stream().map(TransactionDto::from).toList());
+
+        assertTrue(entityJson.contains("\"password\""));
+        assertFalse(dtoJson.contains("password"));
+        assertFalse(dtoJson.contains("\"user\""));
+        assertTrue(dtoJson.length() < entityJson.length() / 2,
+                "dto " + dtoJson.length() + " bytes vs entity " + entityJson.length());
+    }
+
+    @Test
+    void transferReceiptCarriesTransactionIdAndNewBalance() throws JsonProcessingException {
+        Transaction transfer = HistoryFixtures.entities(1).get(0);
+        transfer.getSourceAccount().setBalance(new BigDecimal("975"));
+
+        JsonNode json = mapper.readTree(mapper.writeValueAsString(TransferReceipt.from(transfer)));
+
+        assertEquals(1, json.get("transactionId").asLong());
+        assertEquals("975.00", json.get("newBalance").asText());
+        assertEquals("10.01", json.get("amount").asText());
+    }
+}
@@ -0,0 +1,75 @@
+package com.banking.dto;
+
+import com.banking.config.JacksonConfig;
+import com.banking.model.Transaction;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * History serialization throughput and payload size, TransactionDto against the previous entity output, using
+ * the Boot-configured mapper and, for comparison, the same defaults without the Blackbird module.
+ * Run with {@code mvn test -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@JsonTest
+@Import(JacksonConfig.class)
+class SerializationBenchmarkTest {
+
+    private static final int ROWS = 100;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 20_000);
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    // Boot's serialization defaults without the application's Module beans.
+    private final ObjectMapper withoutBlackbird = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    void historyDtoAgainstEntity() throws JsonProcessingException {
+        List<Transaction> entities = HistoryFixtures.entities(ROWS);
+        List<TransactionDto> dtos = entities.stream().map(TransactionDto::from).toList();
+
+        Result entity = measure("entity", mapper, entities);
+        Result dto = measure("dto", mapper, dtos);
+        measure("dto without blackbird", withoutBlackbird, dtos);
+
+        System.out.printf("payload: dto %,d bytes vs entity %,d bytes (%.1f%%)%n",
+                dto.bytes, entity.bytes, 100.0 * dto.bytes / entity.bytes);
+        assertTrue(dto.bytes < entity.bytes);
+        assertTrue(dto.responsesPerSecond > entity.responsesPerSecond,
+                "dto " + dto.responsesPerSecond + "/s vs entity " + entity.responsesPerSecond + "/s");
+    }
+
+    private Result measure(String label, ObjectMapper mapper, Object payload) throws JsonProcessingException {
+        int bytes = mapper.writeValueAsBytes(payload).length;
+        for (int i = 0; i < WARMUP; i++) {
+            mapper.writeValueAsBytes(payload);
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            mapper.writeValueAsBytes(payload);
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        long responsesPerSecond = ITERATIONS * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        System.out.printf("%s: %,d responses/s of %d rows, %,d bytes each%n", label, responsesPerSecond, ROWS, bytes);
+        return new Result(bytes, responsesPerSecond);
+    }
+
+    private record Result(int bytes, long responsesPerSecond) {
+    }
+}
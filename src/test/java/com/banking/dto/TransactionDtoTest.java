@@ -0,0 +1,74 @@
+package com.banking.dto;
+
+import com.banking.model.Account;
+import com.banking.model.Transaction;
+import com.banking.model.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionDtoTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2024, 5, 1, 9, 30);
+
+    private final Account source = HistoryFixtures.account(1L, "SRC0000001", "alice");
+    private final Account destination = HistoryFixtures.account(2L, "DST0000002", "bob");
+
+    @Test
+    void transfersCarryBothAccountNumbersAndAFixedScaleAmount() {
+        TransactionDto dto = TransactionDto.from(transaction(TransactionType.TRANSFER, "10.5", source, destination));
+
+        assertEquals(7, dto.getId().longValue());
+        assertEquals(TransactionType.TRANSFER, dto.getType());
+        assertEquals("10.50", dto.getAmount());
+        assertEquals("SRC0000001", dto.getSourceAccountNumber());
+        assertEquals("DST0000002", dto.getDestinationAccountNumber());
+        assertEquals(AT, dto.getTimestamp());
+    }
+
+    @Test
+    void depositsHaveNoSourceAccount() {
+        TransactionDto dto = TransactionDto.from(transaction(TransactionType.DEPOSIT, "5", null, destination));
+
+        assertNull(dto.getSourceAccountNumber());
+        assertEquals("DST0000002", dto.getDestinationAccountNumber());
+        assertEquals("5.00", dto.getAmount());
+    }
+
+    @Test
+    void withdrawalsHaveNoDestinationAccount() {
+        TransactionDto dto = TransactionDto.from(transaction(TransactionType.WITHDRAWAL, "0.1", source, null));
+
+        assertEquals("SRC0000001", dto.getSourceAccountNumber());
+        assertNull(dto.getDestinationAccountNumber());
+        assertEquals("0.10", dto.getAmount());
+    }
+
+    @Test
+    void transferReceiptReportsTheSourceBalanceAfterTheDebit() {
+        source.setBalance(new BigDecimal("975"));
+
+        TransferReceipt receipt = TransferReceipt.from(transaction(TransactionType.TRANSFER, "25", source, destination));
+
+        assertEquals(7, receipt.getTransactionId().longValue());
+        assertEquals("SRC0000001", receipt.getSourceAccountNumber());
+        assertEquals("DST0000002", receipt.getDestinationAccountNumber());
+        assertEquals("25.00", receipt.getAmount());
+        assertEquals("975.00", receipt.getNewBalance());
+        assertEquals(AT, receipt.getTimestamp());
+    }
+
+    private static Transaction transaction(TransactionType type, String amount, Account source, Account destination) {
+        return Transaction.builder()
+                .id(7L)
+                .type(type)
+                .amount(new BigDecimal(amount))
+                .sourceAccount(source)
+                .destinationAccount(destination)
+                .timestamp(AT)
+                .build();
+    }
+}
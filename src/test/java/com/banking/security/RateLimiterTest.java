@@ -0,0 +1,65 @@
+package com.banking.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long START = 1_000 * SECOND;
+
+    @Test
+    void allowsBurstThenAsksToWaitOneEmissionInterval() {
+        RateLimiter limiter = new RateLimiter(60, 3, 100);
+
+        assertEquals(0, limiter.tryAcquire("ip:1", START));
+        assertEquals(0, limiter.tryAcquire("ip:1", START));
+        assertEquals(0, limiter.tryAcquire("ip:1", START));
+        assertEquals(SECOND, limiter.tryAcquire("ip:1", START));
+    }
+
+    @Test
+    void refillsOneTokenPerEmissionInterval() {
+        RateLimiter limiter = new RateLimiter(60, 2, 100);
+        limiter.tryAcquire("user:a", START);
+        limiter.tryAcquire("user:a", START);
+
+        assertEquals(SECOND / 2, limiter.tryAcquire("user:a", START + SECOND / 2));
+        assertEquals(0, limiter.tryAcquire("user:a", START + SECOND));
+        assertTrue(limiter.tryAcquire("user:a", START + SECOND) > 0);
+    }
+
+    @Test
+    void idleTimeDoesNotBankMoreThanTheBurst() {
+        RateLimiter limiter = new RateLimiter(60, 2, 100);
+        limiter.tryAcquire("user:a", START);
+
+        long later = START + 3600 * SECOND;
+        assertEquals(0, limiter.tryAcquire("user:a", later));
+        assertEquals(0, limiter.tryAcquire("user:a", later));
+        assertTrue(limiter.tryAcquire("user:a", later) > 0);
+    }
+
+    @Test
+    void keysAreLimitedIndependently() {
+        RateLimiter limiter = new RateLimiter(60, 1, 100);
+
+        assertEquals(0, limiter.tryAcquire("ip:1", START));
+        assertTrue(limiter.tryAcquire("ip:1", START) > 0);
+        assertEquals(0, limiter.tryAcquire("ip:2", START));
+    }
+
+    @Test
+    void staysWithinMaxKeysUnderAFloodOfNewKeys() {
+        RateLimiter limiter = new RateLimiter(60, 5, 1000);
+
+        for (int i = 0; i < 100_000; i++) {
+            assertEquals(0, limiter.tryAcquire("ip:" + i, START));
+        }
+
+        assertTrue(limiter.trackedKeys() <= 1000, "tracked " + limiter.trackedKeys());
+    }
+}
@@ -0,0 +1,145 @@
+package com.banking.service;
+
+import com.banking.dto.ActivitySummaryDto;
+import com.banking.model.Account;
+import com.banking.model.AccountDailySummary;
+import com.banking.model.SummaryPeriod;
+import com.banking.model.User;
+import com.banking.repository.AccountDailySummaryRepository;
+import com.banking.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AccountAnalyticsServiceTest {
+
+    private final List<AccountDailySummary> days = List.of(
+            day("2024-05-15", "100.00", "0.00", 1, "100.00", "100.00"),
+            day("2024-05-16", "0.00", "30.00", 2, "10.00", "20.00"),
+            day("2024-05-20", "5.00", "0.00", 1, "5.00", "5.00"),
+            day("2024-06-03", "0.00", "7.00", 1, "7.00", "7.00"));
+
+    private final AccountRepository accountRepository = mock(AccountRepository.class);
+    private final AccountDailySummaryRepository summaryRepository = mock(AccountDailySummaryRepository.class);
+    private final AccountAnalyticsService service =
+            new AccountAnalyticsService(accountRepository, summaryRepository, null, null);
+
+    @BeforeEach
+    void setUp() {
+        Account account = Account.builder()
+                .id(1L)
+                .accountNumber("ACC0000001")
+                .user(User.builder().username("alice").build())
+                .build();
+        when(accountRepository.findByAccountNumber("ACC0000001")).thenReturn(Optional.of(account));
+    }
+
+    @Test
+    void summaryWidensAMidMonthWindowToWholeMonths() {
+        when(summaryRepository.findByAccount_IdAndDayBetweenOrderByDayAsc(
+                1L, LocalDate.parse("2024-05-01"), LocalDate.parse("2024-06-30"))).thenReturn(days);
+
+        List<ActivitySummaryDto> summary = service.getSummary("ACC0000001", "alice", SummaryPeriod.MONTH,
+                LocalDate.parse("2024-05-16"), LocalDate.parse("2024-06-10"));
+
+        assertEquals(2, summary.size());
+        assertEquals(LocalDate.parse("2024-05-01"), summary.get(0).getPeriodStart());
+        assertEquals(4, summary.get(0).getTransactionCount());
+        assertEquals(LocalDate.parse("2024-06-01"), summary.get(1).getPeriodStart());
+    }
+
+    @Test
+    void summaryWidensAMidWeekWindowToWholeWeeks() {
+        when(summaryRepository.findByAccount_IdAndDayBetweenOrderByDayAsc(
+                1L, LocalDate.parse("2024-05-13"), LocalDate.parse("2024-05-26"))).thenReturn(days.subList(0, 3));
+
+        List<ActivitySummaryDto> summary = service.getSummary("ACC0000001", "alice", SummaryPeriod.WEEK,
+                LocalDate.parse("2024-05-16"), LocalDate.parse("2024-05-20"));
+
+        assertEquals(2, summary.size());
+        assertEquals(3, summary.get(0).getTransactionCount());
+    }
+
+    @Test
+    void summaryKeepsTheExactWindowForDays() {
+        when(summaryRepository.findByAccount_IdAndDayBetweenOrderByDayAsc(
+                1L, LocalDate.parse("2024-05-16"), LocalDate.parse("2024-05-20"))).thenReturn(days.subList(1, 3));
+
+        List<ActivitySummaryDto> summary = service.getSummary("ACC0000001", "alice", SummaryPeriod.DAY,
+                LocalDate.parse("2024-05-16"), LocalDate.parse("2024-05-20"));
+
+        assertEquals(2, summary.size());
+    }
+
+    @Test
+    void summaryRefusesAccountsOwnedByOthers() {
+        assertThrows(RuntimeException.class, () -> service.getSummary("ACC0000001", "mallory", SummaryPeriod.DAY,
+                LocalDate.parse("2024-05-16"), LocalDate.parse("2024-05-20")));
+    }
+
+    @Test
+    void dayPeriodKeepsDailyBuckets() {
+        List<ActivitySummaryDto> summary = AccountAnalyticsService.rollUp(days, SummaryPeriod.DAY);
+
+        assertEquals(4, summary.size());
+        assertEquals(LocalDate.parse("2024-05-16"), summary.get(1).getPeriodStart());
+    }
+
+    @Test
+    void weekPeriodFoldsIntoMondayBuckets() {
+        List<ActivitySummaryDto> summary = AccountAnalyticsService.rollUp(days, SummaryPeriod.WEEK);
+
+        assertEquals(3, summary.size());
+        ActivitySummaryDto week = summary.get(0);
+        assertEquals(LocalDate.parse("2024-05-13"), week.getPeriodStart());
+        assertEquals("100.00", week.getInflow());
+        assertEquals("30.00", week.getOutflow());
+        assertEquals(3, week.getTransactionCount());
+        assertEquals("10.00", week.getMinAmount());
+        assertEquals("100.00", week.getMaxAmount());
+        assertEquals(LocalDate.parse("2024-05-20"), summary.get(1).getPeriodStart());
+        assertEquals(LocalDate.parse("2024-06-03"), summary.get(2).getPeriodStart());
+    }
+
+    @Test
+    void monthPeriodStartsOnTheFirstEvenWhenActivityStartsLater() {
+        List<ActivitySummaryDto> summary = AccountAnalyticsService.rollUp(days, SummaryPeriod.MONTH);
+
+        assertEquals(2, summary.size());
+        ActivitySummaryDto may = summary.get(0);
+        assertEquals(LocalDate.parse("2024-05-01"), may.getPeriodStart());
+        assertEquals("105.00", may.getInflow());
+        assertEquals("30.00", may.getOutflow());
+        assertEquals(4, may.getTransactionCount());
+        assertEquals("5.00", may.getMinAmount());
+        assertEquals("100.00", may.getMaxAmount());
+        assertEquals(LocalDate.parse("2024-06-01"), summary.get(1).getPeriodStart());
+    }
+
+    @Test
+    void rollUpDoesNotMutateTheDailyRows() {
+        AccountAnalyticsService.rollUp(days, SummaryPeriod.MONTH);
+
+        assertEquals(new BigDecimal("100.00"), days.get(0).getInflow());
+        assertEquals(1, days.get(0).getTransactionCount().longValue());
+    }
+
+    private static AccountDailySummary day(String date, String inflow, String outflow, long count, String min, String max) {
+        return AccountDailySummary.builder()
+                .day(LocalDate.parse(date))
+                .inflow(new BigDecimal(inflow))
+                .outflow(new BigDecimal(outflow))
+                .transactionCount(count)
+                .minAmount(new BigDecimal(min))
+                .maxAmount(new BigDecimal(max))
+                .build();
+    }
+}
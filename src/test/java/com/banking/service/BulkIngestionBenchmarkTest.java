@@ -0,0 +1,72 @@
+package com.banking.service;
+
+import com.banking.model.FeedFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Read, parse and aggregate throughput of a generated feed, walked in batches exactly like
+ * {@link BulkIngestionService}, to isolate the CPU side of ingestion. Database time is not included; the
+ * end-to-end target is checked by {@link BulkIngestionDatabaseBenchmarkTest}.
+ * Run with {@code mvn test -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BulkIngestionBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 5_000_000);
+    private static final int ACCOUNTS = 100_000;
+    private static final int BATCH_BYTES = 8 * 1024 * 1024;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void csvFeed() throws IOException {
+        run(FeedFormat.CSV);
+    }
+
+    @Test
+    void fixedWidthFeed() throws IOException {
+        run(FeedFormat.FIXED_WIDTH);
+    }
+
+    private void run(FeedFormat format) throws IOException {
+        Path file = FeedFileGenerator.generate(tempDir.resolve("feed-" + format), format, ROWS, ACCOUNTS, 42);
+
+        long started = System.nanoTime();
+        long rows = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long offset = 0;
+            while (offset < size) {
+                ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(BATCH_BYTES, size - offset));
+                int length = offset + region.limit() < size ? FeedParser.lastLineEnd(region) : region.limit();
+                FeedBatch batch = FeedParser.parse(region, length, format, offset);
+                Map<String, BigDecimal> deltas = BulkIngestionService.netDeltas(batch.entries());
+                assertFalse(deltas.isEmpty());
+                assertTrue(batch.rejects().isEmpty());
+                rows += batch.entries().size();
+                offset += length;
+            }
+        }
+        long elapsedNanos = System.nanoTime() - started;
+
+        long rowsPerMinute = rows * TimeUnit.MINUTES.toNanos(1) / elapsedNanos;
+        System.out.printf("%s: %,d rows in %,d ms = %,d rows/min%n",
+                format, rows, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerMinute);
+        assertEquals(ROWS, rows);
+        assertTrue(rowsPerMinute >= 10_000_000, "parsing should leave the database as the bottleneck, got " + rowsPerMinute);
+    }
+}
@@ -0,0 +1,94 @@
+package com.banking.service;
+
+import com.banking.dto.IngestionRequest;
+import com.banking.dto.IngestionResult;
+import com.banking.model.FeedFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * End-to-end throughput of {@link BulkIngestionService#ingest} against PostgreSQL: parsing, the locked
+ * balance update, the transaction batch insert, the summary upsert and the checkpoint, on one node.
+ * Needs Docker. Run with {@code mvn test -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@Testcontainers
+class BulkIngestionDatabaseBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.db-rows", 2_000_000);
+    private static final int ACCOUNTS = 100_000;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static Path inbox;
+
+    @DynamicPropertySource
+    static void inbox(DynamicPropertyRegistry registry) throws IOException {
+        inbox = Files.createTempDirectory("feed-inbox");
+        registry.add("banking.ingestion.inbox-dir", inbox::toString);
+    }
+
+    @Autowired
+    private BulkIngestionService bulkIngestionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void ingestsMillionsOfRowsPerMinute() throws IOException {
+        seedAccounts();
+        FeedFileGenerator.generate(inbox.resolve("feed.csv"), FeedFormat.CSV, ROWS, ACCOUNTS, 42);
+        IngestionRequest request = new IngestionRequest();
+        request.setFilePath("feed.csv");
+        request.setFormat(FeedFormat.CSV);
+
+        long started = System.nanoTime();
+        IngestionResult result = bulkIngestionService.ingest(request);
+        long elapsedNanos = System.nanoTime() - started;
+
+        long rowsPerMinute = ROWS * TimeUnit.MINUTES.toNanos(1) / elapsedNanos;
+        System.out.printf("ingest: %,d rows in %,d ms = %,d rows/min%n",
+                ROWS, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerMinute);
+        assertEquals(ROWS, result.getRowsProcessed());
+        assertEquals(0, result.getRowsRejected());
+        assertEquals(Long.valueOf(ROWS), jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transactions", Long.class));
+        assertEquals(Long.valueOf(ROWS), jdbcTemplate.queryForObject(
+                "SELECT SUM(transaction_count) FROM account_daily_summaries", Long.class));
+        assertTrue(rowsPerMinute >= 1_000_000, "expected millions of rows per minute, got " + rowsPerMinute);
+    }
+
+    private void seedAccounts() {
+        Long userId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (username, email, password, role)
+                VALUES ('feed-benchmark', 'feed-benchmark@example.com', 'n/a', 'USER') RETURNING id
+                """, Long.class);
+        List<Object[]> accounts = new ArrayList<>(ACCOUNTS);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            // Large enough that no generated withdrawal sequence can overdraw an account.
+            accounts.add(new Object[]{FeedFileGenerator.accountNumber(i), new BigDecimal("1000000000.00"), userId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO accounts (account_number, balance, user_id) VALUES (?, ?, ?)", accounts);
+    }
+}
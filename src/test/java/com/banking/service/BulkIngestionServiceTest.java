@@ -0,0 +1,58 @@
+package com.banking.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkIngestionServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void resolvesRelativeAndAbsolutePathsInsideTheInbox() throws IOException {
+        Path inbox = Files.createDirectories(tempDir.resolve("inbox"));
+        Path feed = Files.createFile(Files.createDirectories(inbox.resolve("daily")).resolve("feed.csv"));
+
+        assertEquals(feed, BulkIngestionService.resolveInInbox(inbox, "daily/feed.csv"));
+        assertEquals(feed, BulkIngestionService.resolveInInbox(inbox, feed.toString()));
+        assertEquals(feed, BulkIngestionService.resolveInInbox(inbox, "daily/../daily/./feed.csv"));
+    }
+
+    @Test
+    void refusesPathsOutsideTheInbox() throws IOException {
+        Path inbox = Files.createDirectories(tempDir.resolve("inbox"));
+        Path outside = Files.createFile(tempDir.resolve("secret.csv"));
+
+        for (String path : new String[]{"../secret.csv", outside.toString(), "/etc/passwd", " "}) {
+            assertThrows(RuntimeException.class, () -> BulkIngestionService.resolveInInbox(inbox, path), path);
+        }
+    }
+
+    @Test
+    void refusesSymbolicLinksLeadingOutOfTheInbox() throws IOException {
+        Path inbox = Files.createDirectories(tempDir.resolve("inbox"));
+        Path outside = Files.createFile(tempDir.resolve("secret.csv"));
+        Files.createSymbolicLink(inbox.resolve("link.csv"), outside);
+
+        RuntimeException error = assertThrows(RuntimeException.class,
+                () -> BulkIngestionService.resolveInInbox(inbox, "link.csv"));
+
+        assertEquals("Feed files must be inside the ingestion inbox", error.getMessage());
+    }
+
+    @Test
+    void missingFilesDoNotEchoTheAbsolutePath() throws IOException {
+        Path inbox = Files.createDirectories(tempDir.resolve("inbox"));
+
+        RuntimeException error = assertThrows(RuntimeException.class,
+                () -> BulkIngestionService.resolveInInbox(inbox, "missing.csv"));
+
+        assertEquals("Feed file not found in the ingestion inbox: missing.csv", error.getMessage());
+    }
+}
@@ -0,0 +1,40 @@
+package com.banking.service;
+
+import com.banking.model.FeedFormat;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+final class FeedFileGenerator {
+
+    private FeedFileGenerator() {
+    }
+
+    static Path generate(Path file, FeedFormat format, int rows, int accounts, long seed) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            for (int i = 0; i < rows; i++) {
+                writer.write(line(format, accountNumber(random.nextInt(accounts)), random.nextBoolean(),
+                        1 + random.nextLong(100_000)));
+                writer.write('\n');
+            }
+        }
+        return file;
+    }
+
+    static String accountNumber(int index) {
+        return String.format("ACC%07d", index);
+    }
+
+    static String line(FeedFormat format, String accountNumber, boolean deposit, long amountMinor) {
+        String amount = (amountMinor / 100) + "." + String.format("%02d", amountMinor % 100);
+        if (format == FeedFormat.CSV) {
+            return accountNumber + "," + (deposit ? "DEPOSIT" : "WITHDRAWAL") + "," + amount;
+        }
+        return String.format("%-10s%s%15s", accountNumber, deposit ? "D" : "W", amount);
+    }
+}
@@ -0,0 +1,132 @@
+package com.banking.service;
+
+import com.banking.model.FeedFormat;
+import com.banking.model.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeedParserTest {
+
+    @Test
+    void parsesCsvWithCrlfCommentsAndMissingTrailingNewline() {
+        ByteBuffer feed = buffer("# header\r\nACC0000001,DEPOSIT,10.50\r\n\r\nACC0000002,WITHDRAWAL,3");
+
+        List<FeedEntry> entries = FeedParser.parse(feed, feed.limit(), FeedFormat.CSV, 0).entries();
+
+        assertEquals(List.of(
+                new FeedEntry(10, "ACC0000001", TransactionType.DEPOSIT, new BigDecimal("10.50")),
+                new FeedEntry(38, "ACC0000002", TransactionType.WITHDRAWAL, new BigDecimal("3"))), entries);
+    }
+
+    @Test
+    void parsesFixedWidthLayout() {
+        ByteBuffer feed = buffer(FeedFileGenerator.line(FeedFormat.FIXED_WIDTH, "ACC0000007", false, 1234) + "\n"
+                + FeedFileGenerator.line(FeedFormat.FIXED_WIDTH, "SHORT", true, 5) + "\n");
+
+        List<FeedEntry> entries = FeedParser.parse(feed, feed.limit(), FeedFormat.FIXED_WIDTH, 0).entries();
+
+        assertEquals(List.of(
+                new FeedEntry(0, "ACC0000007", TransactionType.WITHDRAWAL, new BigDecimal("12.34")),
+                new FeedEntry(27, "SHORT", TransactionType.DEPOSIT, new BigDecimal("0.05"))), entries);
+    }
+
+    @Test
+    void chunkSplitsLandOnLineBoundariesAndKeepFileOrder() {
+        StringBuilder feed = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            feed.append(FeedFileGenerator.line(FeedFormat.CSV, FeedFileGenerator.accountNumber(i), i % 3 != 0, i + 1))
+                    .append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+        ByteBuffer buffer = buffer(feed.toString());
+
+        FeedBatch single = FeedParser.parse(buffer, buffer.limit(), FeedFormat.CSV, 0, 1);
+        for (int parts : new int[]{2, 7, 64, 1000, 5000}) {
+            assertEquals(single, FeedParser.parse(buffer, buffer.limit(), FeedFormat.CSV, 0, parts), "parts=" + parts);
+        }
+        assertEquals(1000, single.entries().size());
+        assertEquals(FeedFileGenerator.accountNumber(999), single.entries().get(999).accountNumber());
+    }
+
+    @Test
+    void parsesOnlyUpToTheGivenLength() {
+        ByteBuffer feed = buffer("ACC0000001,DEPOSIT,1\nACC0000002,DEPOSIT,2\nACC00000");
+
+        int length = FeedParser.lastLineEnd(feed);
+
+        assertEquals("ACC0000001,DEPOSIT,1\nACC0000002,DEPOSIT,2\n".length(), length);
+        assertEquals(2, FeedParser.parse(feed, length, FeedFormat.CSV, 0).entries().size());
+    }
+
+    @Test
+    void lastLineEndIsZeroWithoutAnyNewline() {
+        assertEquals(0, FeedParser.lastLineEnd(buffer("ACC0000001,DEPOSIT,1")));
+    }
+
+    @Test
+    void invalidLinesAreRejectedByFileOffsetWithoutStoppingTheBatch() {
+        ByteBuffer feed = buffer("ACC0000001,DEPOSIT,1\nACC0000002,TRANSFER,2\nACC0000003,DEPOSIT,3\n");
+
+        FeedBatch batch = FeedParser.parse(feed, feed.limit(), FeedFormat.CSV, 100);
+
+        assertEquals(List.of("ACC0000001", "ACC0000003"),
+                batch.entries().stream().map(FeedEntry::accountNumber).toList());
+        assertEquals(1, batch.rejects().size());
+        FeedReject reject = batch.rejects().get(0);
+        assertEquals(121, reject.offset());
+        assertEquals("ACC0000002,TRANSFER,2", reject.line());
+        assertEquals("Transfers cannot be ingested from feeds", reject.reason());
+    }
+
+    @Test
+    void rejectsNonPositiveAmounts() {
+        ByteBuffer feed = buffer("ACC0000001,WITHDRAWAL,0\n");
+
+        FeedBatch batch = FeedParser.parse(feed, feed.limit(), FeedFormat.CSV, 0);
+
+        assertTrue(batch.entries().isEmpty());
+        assertEquals("Amount must be positive", batch.rejects().get(0).reason());
+    }
+
+    @Test
+    void rejectsAmountsFinerThanCents() {
+        for (String amount : new String[]{"0.005", "0.004", "12.345"}) {
+            ByteBuffer feed = buffer("ACC0000001,DEPOSIT," + amount + "\n");
+
+            FeedBatch batch = FeedParser.parse(feed, feed.limit(), FeedFormat.CSV, 0);
+
+            assertTrue(batch.entries().isEmpty(), amount);
+            assertEquals("Amount has more than two decimal places", batch.rejects().get(0).reason());
+        }
+    }
+
+    @Test
+    void acceptsTrailingZerosBeyondCents() {
+        ByteBuffer feed = buffer("ACC0000001,DEPOSIT,10.5000\n");
+
+        List<FeedEntry> entries = FeedParser.parse(feed, feed.limit(), FeedFormat.CSV, 0).entries();
+
+        assertEquals(0, new BigDecimal("10.50").compareTo(entries.get(0).amount()));
+    }
+
+    @Test
+    void netDeltasFoldDepositsAndWithdrawalsPerAccount() {
+        Map<String, BigDecimal> deltas = BulkIngestionService.netDeltas(List.of(
+                new FeedEntry(0, "A", TransactionType.DEPOSIT, new BigDecimal("10.00")),
+                new FeedEntry(10, "A", TransactionType.WITHDRAWAL, new BigDecimal("2.50")),
+                new FeedEntry(20, "B", TransactionType.WITHDRAWAL, new BigDecimal("1.00"))));
+
+        assertEquals(new BigDecimal("7.50"), deltas.get("A"));
+        assertEquals(new BigDecimal("-1.00"), deltas.get("B"));
+    }
+
+    private static ByteBuffer buffer(String content) {
+        return ByteBuffer.wrap(content.getBytes(StandardCharsets.US_ASCII));
+    }
+}
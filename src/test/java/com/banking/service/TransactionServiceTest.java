@@ -0,0 +1,73 @@
+package com.banking.service;
+
+import com.banking.dto.TransactionDto;
+import com.banking.model.Account;
+import com.banking.model.Transaction;
+import com.banking.model.TransactionType;
+import com.banking.model.User;
+import com.banking.repository.AccountRepository;
+import com.banking.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TransactionServiceTest {
+
+    private final AccountRepository accountRepository = mock(AccountRepository.class);
+    private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+    private final TransactionService service = new TransactionService(accountRepository, transactionRepository, null, null);
+
+    @Test
+    void historyMapsDepositsWithdrawalsAndTransfers() {
+        Account account = Account.builder()
+                .id(1L)
+                .accountNumber("ACC0000001")
+                .balance(new BigDecimal("100.00"))
+                .user(User.builder().username("alice").password("secret").build())
+                .build();
+        Account other = Account.builder().id(2L).accountNumber("ACC0000002").build();
+        when(accountRepository.findByAccountNumber("ACC0000001")).thenReturn(Optional.of(account));
+        when(transactionRepository.findHistoryWithAccounts("ACC0000001")).thenReturn(List.of(
+                transaction(3L, TransactionType.TRANSFER, account, other),
+                transaction(2L, TransactionType.WITHDRAWAL, account, null),
+                transaction(1L, TransactionType.DEPOSIT, null, account)));
+
+        List<TransactionDto> history = service.getTransactionHistory("ACC0000001", "alice");
+
+        assertEquals(List.of(3L, 2L, 1L), history.stream().map(TransactionDto::getId).toList());
+        assertEquals("ACC0000002", history.get(0).getDestinationAccountNumber());
+        assertNull(history.get(1).getDestinationAccountNumber());
+        assertNull(history.get(2).getSourceAccountNumber());
+        assertEquals("ACC0000001", history.get(2).getDestinationAccountNumber());
+        assertEquals("1.00", history.get(2).getAmount());
+    }
+
+    @Test
+    void historyRefusesAccountsOwnedByOthers() {
+        Account account = Account.builder()
+                .accountNumber("ACC0000001")
+                .user(User.builder().username("alice").build())
+                .build();
+        when(accountRepository.findByAccountNumber("ACC0000001")).thenReturn(Optional.of(account));
+
+        assertThrows(RuntimeException.class, () -> service.getTransactionHistory("ACC0000001", "mallory"));
+    }
+
+    private static Transaction transaction(Long id, TransactionType type, Account source, Account destination) {
+        return Transaction.builder()
+                .id(id)
+                .type(type)
+                .amount(BigDecimal.ONE)
+                .sourceAccount(source)
+                .destinationAccount(destination)
+                .timestamp(LocalDateTime.of(2024, 5, 1, 9, 30))
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.banking.service;
+
+import com.banking.exception.RateLimitExceededException;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransferVelocityCheckerTest {
+
+    private static final long MINUTE = 60_000;
+    private static final long START = 1_000 * 60 * MINUTE;
+
+    private final TransferVelocityChecker checker =
+            new TransferVelocityChecker(3600, 3, new BigDecimal("100.00"), 100);
+
+    @Test
+    void rejectsTheTransferThatExceedsTheCount() {
+        checker.check("A", BigDecimal.ONE, START);
+        checker.check("A", BigDecimal.ONE, START + MINUTE);
+        checker.check("A", BigDecimal.ONE, START + 2 * MINUTE);
+
+        RateLimitExceededException e = assertThrows(RateLimitExceededException.class,
+                () -> checker.check("A", BigDecimal.ONE, START + 3 * MINUTE));
+        assertEquals(57 * 60 + 1, e.getRetryAfterSeconds());
+    }
+
+    @Test
+    void rejectsTheTransferThatExceedsTheAmount() {
+        checker.check("A", new BigDecimal("60.00"), START);
+
+        assertThrows(RateLimitExceededException.class, () -> checker.check("A", new BigDecimal("40.01"), START));
+        checker.check("A", new BigDecimal("40.00"), START);
+    }
+
+    @Test
+    void transfersLargerThanTheWholeLimitAreInvalidRatherThanRateLimited() {
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> checker.check("A", new BigDecimal("100.01"), START));
+
+        assertFalse(e instanceof RateLimitExceededException);
+        assertEquals("Transfer amount exceeds the limit of 100.00", e.getMessage());
+        assertEquals(0, checker.trackedAccounts());
+        checker.check("A", new BigDecimal("100.00"), START);
+    }
+
+    @Test
+    void rejectedTransfersDoNotUseTheBudget() {
+        checker.check("A", new BigDecimal("90.00"), START);
+        assertThrows(RateLimitExceededException.class, () -> checker.check("A", new BigDecimal("20.00"), START));
+
+        checker.check("A", new BigDecimal("10.00"), START);
+    }
+
+    @Test
+    void budgetFreesUpOnceTheWindowSlidesPast() {
+        checker.check("A", new BigDecimal("100.00"), START);
+        assertThrows(RateLimitExceededException.class, () -> checker.check("A", BigDecimal.ONE, START + 59 * MINUTE));
+
+        checker.check("A", new BigDecimal("100.00"), START + 60 * MINUTE);
+    }
+
+    @Test
+    void accountsAreLimitedIndependently() {
+        checker.check("A", new BigDecimal("100.00"), START);
+
+        checker.check("B", new BigDecimal("100.00"), START);
+    }
+
+    @Test
+    void refusesNewAccountsWhileAtCapacityAndAdmitsThemOnceWindowsGoIdle() {
+        for (int i = 0; i < 100; i++) {
+            checker.check("acct-" + i, BigDecimal.ONE, START);
+        }
+
+        assertThrows(RateLimitExceededException.class, () -> checker.check("new", BigDecimal.ONE, START));
+        assertThrows(RateLimitExceededException.class, () -> checker.check("new", BigDecimal.ONE, START + 1));
+        assertEquals(100, checker.trackedAccounts());
+
+        checker.check("new", BigDecimal.ONE, START + 60 * MINUTE);
+        assertEquals(1, checker.trackedAccounts());
+    }
+
+    @Test
+    void releasedReservationsGiveTheBudgetBack() {
+        Runnable release = checker.check("A", new BigDecimal("100.00"), START);
+        release.run();
+
+        checker.check("A", new BigDecimal("100.00"), START + MINUTE);
+    }
+
+    @Test
+    void releaseAfterTheSlotRotatedIsIgnored() {
+        Runnable release = checker.check("A", new BigDecimal("50.00"), START);
+        checker.check("A", new BigDecimal("50.00"), START + 60 * MINUTE);
+
+        release.run();
+
+        assertThrows(RateLimitExceededException.class, () -> checker.check("A", new BigDecimal("60.00"), START + 60 * MINUTE));
+    }
+
+    @Test
+    void rolledBackTransactionsReleaseTheirReservation() {
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        checker.check("A", new BigDecimal("100.00"));
+    }
+
+    @Test
+    void committedTransactionsKeepTheirReservation() {
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThrows(RateLimitExceededException.class, () -> checker.check("A", new BigDecimal("100.00")));
+    }
+
+    private void completeTransaction(int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            checker.check("A", new BigDecimal("100.00"));
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
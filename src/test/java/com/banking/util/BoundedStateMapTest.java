@@ -0,0 +1,69 @@
+package com.banking.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedStateMapTest {
+
+    private static final Predicate<Object> NEVER_IDLE = v -> false;
+
+    @Test
+    void returnsExistingStateForKnownKeys() {
+        BoundedStateMap<AtomicInteger> map = new BoundedStateMap<>(10, false, 100);
+
+        AtomicInteger first = map.getOrCreate("a", k -> new AtomicInteger(), v -> false, 0);
+
+        assertSame(first, map.getOrCreate("a", k -> new AtomicInteger(), v -> false, 0));
+    }
+
+    @Test
+    void evictsLiveEntriesDownToTheLowWaterMarkWhenAllowed() {
+        BoundedStateMap<Object> map = new BoundedStateMap<>(100, true, 0);
+        for (int i = 0; i < 100; i++) {
+            map.getOrCreate("k" + i, k -> new Object(), NEVER_IDLE, 0);
+        }
+
+        assertNotNull(map.getOrCreate("new", k -> new Object(), NEVER_IDLE, 0));
+        assertEquals(91, map.size());
+    }
+
+    @Test
+    void refusesNewKeysWhenNothingCanBeEvicted() {
+        AtomicInteger sweeps = new AtomicInteger();
+        Predicate<Object> countingNeverIdle = v -> {
+            sweeps.incrementAndGet();
+            return false;
+        };
+        BoundedStateMap<Object> map = new BoundedStateMap<>(10, false, 100);
+        for (int i = 0; i < 10; i++) {
+            map.getOrCreate("k" + i, k -> new Object(), countingNeverIdle, 0);
+        }
+
+        assertNull(map.getOrCreate("new", k -> new Object(), countingNeverIdle, 0));
+        int afterFirstSweep = sweeps.get();
+        assertEquals(10, afterFirstSweep);
+
+        for (int i = 0; i < 1000; i++) {
+            assertNull(map.getOrCreate("new" + i, k -> new Object(), countingNeverIdle, 99));
+        }
+        assertEquals(afterFirstSweep, sweeps.get(), "no sweep before the back-off elapses");
+        assertEquals(10, map.size());
+    }
+
+    @Test
+    void sweepsIdleEntriesFirst() {
+        BoundedStateMap<AtomicInteger> map = new BoundedStateMap<>(10, true, 0);
+        for (int i = 0; i < 10; i++) {
+            map.getOrCreate("k" + i, k -> new AtomicInteger(k.equals("k0") ? 1 : 0), v -> false, 0);
+        }
+
+        map.getOrCreate("new", k -> new AtomicInteger(1), v -> v.get() == 0, 0);
+
+        assertEquals(2, map.size());
+        assertEquals(1, map.getOrCreate("k0", k -> new AtomicInteger(), v -> false, 0).get());
+    }
+}
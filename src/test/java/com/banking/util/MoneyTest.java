@@ -0,0 +1,24 @@
+package com.banking.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void formatsWithTwoDecimalsAndNoExponent() {
+        assertEquals("5.00", Money.format(new BigDecimal("5")));
+        assertEquals("10.50", Money.format(new BigDecimal("10.5")));
+        assertEquals("1000000.00", Money.format(new BigDecimal("1E+6")));
+        assertEquals("-3.20", Money.format(new BigDecimal("-3.2")));
+    }
+
+    @Test
+    void roundsHalfEven() {
+        assertEquals("0.12", Money.format(new BigDecimal("0.125")));
+        assertEquals("0.14", Money.format(new BigDecimal("0.135")));
+    }
+}